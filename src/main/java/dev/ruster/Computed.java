@@ -0,0 +1,63 @@
+package dev.ruster;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>A read-only value derived from other reactive values</p>
+ * <p>It is computed lazily : a change of one of the values read by its expression only marks it as outdated,
+ * the expression runs again the next time the value is read. Changing its dependencies several times in a batch
+ * therefore computes it once, with all the changes applied</p>
+ *
+ * @param <T> The type of the value
+ * @author RusterX16
+ */
+public class Computed<T> extends Value<T> {
+
+    /**
+     * The expression giving the value
+     */
+    private final Supplier<T> expression;
+    /**
+     * Mark the value as outdated when a dependency changes
+     */
+    private final Dependent dependent = new Dependent() {
+        @Override
+        void invalidate() {
+            dirty = true;
+            notifyDependents();
+        }
+    };
+    /**
+     * The last computed value
+     */
+    private T value;
+    /**
+     * True if the value must be computed again before being read
+     */
+    private boolean dirty = true;
+
+    /**
+     * Create a new computed value. The expression is not run until the value is read
+     *
+     * @param expression The expression giving the value
+     */
+    public Computed(@NotNull Supplier<T> expression) {
+        this.expression = expression;
+    }
+
+    @Override
+    T current() {
+        if (dirty) {
+            value = dependent.track(expression);
+            dirty = false;
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "Computed(value=" + value + ", dirty=" + dirty + ")";
+    }
+}
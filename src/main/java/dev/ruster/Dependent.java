@@ -0,0 +1,62 @@
+package dev.ruster;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Something that reads reactive values and must be recomputed when one of them changes
+ */
+abstract class Dependent {
+
+    /**
+     * The reactive values read during the last evaluation
+     */
+    private final Set<Value<?>> dependencies = new HashSet<>();
+
+    /**
+     * Evaluate an expression and record every reactive value it reads as a dependency.<br>
+     * Dependencies from the previous evaluation are dropped first
+     *
+     * @param expression The expression to evaluate
+     * @param <R>        The type of the result
+     * @return The result of the expression
+     */
+    <R> R track(@NotNull Supplier<R> expression) {
+        dispose();
+        Value.TRACKING.push(this);
+
+        try {
+            return expression.get();
+        } finally {
+            Value.TRACKING.pop();
+        }
+    }
+
+    /**
+     * Record a reactive value as a dependency
+     *
+     * @param value The reactive value that has been read
+     */
+    void depend(@NotNull Value<?> value) {
+        if (dependencies.add(value)) {
+            value.dependents.add(this);
+        }
+    }
+
+    /**
+     * Stop listening to every recorded dependency
+     */
+    void dispose() {
+        dependencies.forEach(v -> v.dependents.remove(this));
+        dependencies.clear();
+    }
+
+    /**
+     * Called when one of the dependencies has changed.<br>
+     * The dependencies have already been dropped, they are recorded again on the next evaluation
+     */
+    abstract void invalidate();
+}
@@ -1,5 +1,6 @@
 package dev.ruster;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,6 +16,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
 /**
@@ -67,6 +69,15 @@ public class GUI {
      * The GUI that comes after this
      */
     @Setter private GUI nextGUI;
+    /**
+     * The slots bound to reactive values
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final SlotBindings<ItemStack> bindings = new SlotBindings<>(
+            (slot, item) -> getInventory().setItem(slot, item),
+            () -> !getInventory().getViewers().isEmpty());
 
     /**
      * Create a new GUI inventory for an owner
@@ -179,7 +190,8 @@ public class GUI {
     }
 
     /**
-     * Add an item to the inventory at a precise slots
+     * Add an item to the inventory at a precise slots.<br>
+     * Bound slots are unbound first, so the item is not overwritten by their expression
      *
      * @param item  The item you want to add
      * @param slots The slots where the item should be added
@@ -192,6 +204,7 @@ public class GUI {
             if (i < 0 || i > size) {
                 throw new ArrayIndexOutOfBoundsException("slot is out of bounds");
             }
+            bindings.unbind(i);
             inventory.setItem(i, item);
         }
     }
@@ -206,6 +219,60 @@ public class GUI {
         set(new ItemStack(material), slots);
     }
 
+    /**
+     * Bind slots to an expression reading {@link Value reactive values}.<br>
+     * The slots are redrawn only when one of the values read by the expression changes, and only while someone
+     * is viewing the GUI. Changes made while nobody views it are applied when it is opened with {@link #open(Player)}.<br>
+     * A null result empties the slots. Must be called from the server main thread
+     *
+     * @param expression The expression giving the item to display
+     * @param slots      The slots where the item should be displayed
+     */
+    public void bind(@NotNull Supplier<ItemStack> expression, int @NotNull ... slots) {
+        for (int i : slots) {
+            if (i < 0 || i >= size) {
+                throw new ArrayIndexOutOfBoundsException("slot is out of bounds");
+            }
+        }
+        bindings.bind(expression, slots);
+    }
+
+    /**
+     * Stop updating slots from their expression. The displayed items are kept
+     *
+     * @param slots The slots to unbind
+     */
+    public void unbind(int @NotNull ... slots) {
+        bindings.unbind(slots);
+    }
+
+    /**
+     * Stop updating every bound slot of the GUI.<br>
+     * Should be called once the GUI is no longer used, so the reactive values it reads forget about it
+     */
+    public void unbindAll() {
+        bindings.unbindAll();
+    }
+
+    /**
+     * Check if a slot is bound to an expression
+     *
+     * @param slot The slot to check
+     * @return True if the slot is bound
+     */
+    public boolean isBound(int slot) {
+        return bindings.isBound(slot);
+    }
+
+    /**
+     * Redraw the bound slots whose values changed, even if nobody is viewing the GUI.<br>
+     * Already done by {@link #open(Player)}, only needed when the inventory is opened another way
+     */
+    public void refresh() {
+        Value.checkThread();
+        bindings.flush(true);
+    }
+
     /**
      * Get the ItemStack related to the given slot
      *
@@ -526,25 +593,37 @@ public class GUI {
     }
 
     /**
-     * Remove an item from the inventory from the slot given
+     * Remove an item from the inventory from the slot given.<br>
+     * The slot is unbound, other bound slots emptied by the removal are redrawn
      *
      * @param slot The slot where the item should be removed
      */
     public void remove(int slot) {
         ItemStack item = get(slot);
+        bindings.unbind(slot);
 
         if (item != null && item.getType() != Material.AIR) {
             inventory.remove(item);
+            redrawEmptyBoundSlots();
         }
     }
 
     /**
-     * Remove items from the inventory by a given array of ItemStack
+     * Remove items from the inventory by a given array of ItemStack.<br>
+     * Bound slots emptied by the removal are redrawn
      *
      * @param items The items you want to remove
      */
     public void remove(ItemStack @NotNull ... items) {
         inventory.removeItem(items);
+        redrawEmptyBoundSlots();
+    }
+
+    /**
+     * Recompute the bound slots that have been emptied from outside their binding
+     */
+    private void redrawEmptyBoundSlots() {
+        bindings.invalidate(Arrays.stream(bindings.boundSlots()).filter(this::isEmpty).toArray());
     }
 
     /**
@@ -553,6 +632,7 @@ public class GUI {
      * @param player The player who open the inventory
      */
     public void open(@NotNull Player player) {
+        refresh();
         player.openInventory(inventory);
     }
 
@@ -605,10 +685,11 @@ public class GUI {
     }
 
     /**
-     * Delete all the items in the GUI
+     * Delete all the items in the GUI. Bound slots are redrawn from their expression
      */
     public void clear() {
         inventory.clear();
+        bindings.invalidateAll();
     }
 
     /**
@@ -0,0 +1,202 @@
+package dev.ruster;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>The slots of a GUI bound to expressions reading reactive values</p>
+ * <p>A binding is only recomputed when one of the values read by its expression changes,
+ * and only while the GUI is visible. Changes made while nobody looks at the GUI are applied on the next refresh</p>
+ *
+ * @param <T> The type of the items displayed in the slots
+ */
+final class SlotBindings<T> {
+
+    /**
+     * The logger used to report expressions that could not be computed
+     */
+    private static final Logger LOGGER = Logger.getLogger(SlotBindings.class.getName());
+
+    /**
+     * Write an item in a slot
+     */
+    private final BiConsumer<Integer, T> writer;
+    /**
+     * True if the slots are currently displayed to someone
+     */
+    private final BooleanSupplier visible;
+    /**
+     * The bindings of the bound slots, indexed by slot
+     */
+    private final Map<Integer, Binding> bindings = new HashMap<>();
+    /**
+     * The bindings to recompute on the next flush
+     */
+    private final Set<Binding> dirty = new LinkedHashSet<>();
+
+    /**
+     * Create the slot bindings of a GUI
+     *
+     * @param writer  Write an item in a slot
+     * @param visible True if the slots are currently displayed to someone
+     */
+    SlotBindings(@NotNull BiConsumer<Integer, T> writer, @NotNull BooleanSupplier visible) {
+        this.writer = writer;
+        this.visible = visible;
+    }
+
+    /**
+     * Bind slots to an expression, replacing their previous bindings.<br>
+     * The expression is computed at the end of the current batch, or on the next refresh if the slots are not visible
+     *
+     * @param expression The expression giving the item to display
+     * @param slots      The slots where the item should be displayed
+     */
+    void bind(@NotNull Supplier<T> expression, int @NotNull ... slots) {
+        if (slots.length == 0) {
+            throw new IllegalArgumentException("At least one slot must be bound");
+        }
+        unbind(slots);
+        final Binding binding = new Binding(expression);
+
+        for (int i : slots) {
+            binding.slots.add(i);
+            bindings.put(i, binding);
+        }
+        State.batch(binding::invalidate);
+    }
+
+    /**
+     * Stop updating slots from their expression. The displayed items are kept
+     *
+     * @param slots The slots to unbind
+     */
+    void unbind(int @NotNull ... slots) {
+        for (int i : slots) {
+            final Binding binding = bindings.remove(i);
+
+            if (binding == null) {
+                continue;
+            }
+            binding.slots.remove(i);
+
+            if (binding.slots.isEmpty()) {
+                binding.dispose();
+                dirty.remove(binding);
+            }
+        }
+    }
+
+    /**
+     * Stop updating every bound slot
+     */
+    void unbindAll() {
+        unbind(boundSlots());
+    }
+
+    /**
+     * Recompute the bindings of some slots, after their items have been changed from outside
+     *
+     * @param slots The slots to redraw, unbound slots are ignored
+     */
+    void invalidate(int @NotNull ... slots) {
+        State.batch(() -> {
+            for (int i : slots) {
+                final Binding binding = bindings.get(i);
+
+                if (binding != null) {
+                    binding.dispose();
+                    binding.invalidate();
+                }
+            }
+        });
+    }
+
+    /**
+     * Recompute every binding, after the items have been changed from outside
+     */
+    void invalidateAll() {
+        invalidate(boundSlots());
+    }
+
+    /**
+     * @return The bound slots
+     */
+    int @NotNull [] boundSlots() {
+        return bindings.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @param slot The slot to check
+     * @return True if the slot is bound
+     */
+    boolean isBound(int slot) {
+        return bindings.containsKey(slot);
+    }
+
+    /**
+     * Recompute the dirty bindings then write all their items in one go.<br>
+     * An expression that fails is logged and computed again when one of the values it read changes
+     *
+     * @param force Flush even if the slots are not visible
+     */
+    void flush(boolean force) {
+        if (dirty.isEmpty() || !force && !visible.getAsBoolean()) {
+            return;
+        }
+        final List<Binding> outdated = new ArrayList<>(dirty);
+        final Map<Binding, T> changes = new LinkedHashMap<>();
+
+        for (Binding binding : outdated) {
+            // Unbound by an expression evaluated before it
+            if (!dirty.remove(binding) || binding.slots.isEmpty()) {
+                continue;
+            }
+            try {
+                changes.put(binding, binding.track(binding.expression));
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Could not compute the item of slots " + binding.slots, e);
+            }
+        }
+        changes.forEach((binding, item) -> {
+            // Unbound by an expression evaluated during this flush
+            if (binding.slots.isEmpty()) {
+                binding.dispose();
+            } else {
+                binding.slots.forEach(i -> writer.accept(i, item));
+            }
+        });
+    }
+
+    /**
+     * An expression displayed in one or more slots
+     */
+    private final class Binding extends Dependent {
+
+        /**
+         * The expression giving the item to display
+         */
+        private final Supplier<T> expression;
+        /**
+         * The slots where the item is displayed
+         */
+        private final Set<Integer> slots = new HashSet<>();
+
+        private Binding(@NotNull Supplier<T> expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        void invalidate() {
+            if (dirty.add(this)) {
+                State.schedule(SlotBindings.this);
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package dev.ruster;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>A value that can be changed and notifies the GUI slots and computed values depending on it</p>
+ * <p>States are not thread-safe, {@link #set(Object)} and {@link #batch(Runnable)} throw an
+ * {@link IllegalStateException} when called outside the server main thread.
+ * Values coming from async callbacks must be set back on the main thread with the Bukkit scheduler</p>
+ *
+ * @param <T> The type of the value
+ * @author RusterX16
+ */
+public class State<T> extends Value<T> {
+
+    /**
+     * The slot bindings waiting to be redrawn at the end of the current batch
+     */
+    private static final Set<SlotBindings<?>> PENDING = new LinkedHashSet<>();
+    /**
+     * The logger used to report bindings that could not be redrawn
+     */
+    private static final Logger LOGGER = Logger.getLogger(State.class.getName());
+    /**
+     * The maximum number of redraw passes in a batch, reached when bound expressions keep changing values they read
+     */
+    private static final int MAX_PASSES = 100;
+    /**
+     * The depth of nested batches, slots are only redrawn once it goes back to 0
+     */
+    private static int batchDepth;
+
+    /**
+     * The current value
+     */
+    private T value;
+
+    /**
+     * Create a new state
+     *
+     * @param value The initial value, could be null
+     */
+    public State(T value) {
+        this.value = value;
+    }
+
+    /**
+     * Apply several changes at once.<br>
+     * Bound slots are recomputed a single time at the end of the outermost batch, whatever the number of changes
+     *
+     * @param changes The changes to apply
+     * @throws IllegalStateException If called outside the server main thread
+     */
+    public static void batch(@NotNull Runnable changes) {
+        checkThread();
+        batchDepth++;
+
+        try {
+            changes.run();
+        } finally {
+            if (--batchDepth == 0) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Ask for slot bindings to be redrawn at the end of the current batch
+     *
+     * @param bindings The slot bindings having dirty slots
+     */
+    static void schedule(@NotNull SlotBindings<?> bindings) {
+        PENDING.add(bindings);
+    }
+
+    /**
+     * Redraw every pending slot bindings, including those that become dirty while redrawing.<br>
+     * A failure is logged and does not prevent the others from being redrawn.<br>
+     * After {@link #MAX_PASSES} passes the remaining bindings are left dirty until their GUI is refreshed
+     */
+    private static void flush() {
+        batchDepth++;
+
+        try {
+            for (int pass = 0; !PENDING.isEmpty(); pass++) {
+                if (pass == MAX_PASSES) {
+                    LOGGER.severe("Bound slots are still changing after " + MAX_PASSES
+                            + " redraws, a bound expression probably changes a value it reads");
+                    PENDING.clear();
+                    break;
+                }
+                final List<SlotBindings<?>> pending = new ArrayList<>(PENDING);
+                PENDING.clear();
+
+                for (SlotBindings<?> bindings : pending) {
+                    try {
+                        bindings.flush(false);
+                    } catch (RuntimeException e) {
+                        LOGGER.log(Level.SEVERE, "Could not redraw bound slots", e);
+                    }
+                }
+            }
+        } finally {
+            batchDepth--;
+        }
+    }
+
+    @Override
+    T current() {
+        return value;
+    }
+
+    /**
+     * Change the value. Nothing is recomputed if the new value equals the current one
+     *
+     * @param value The new value
+     * @throws IllegalStateException If called outside the server main thread
+     */
+    public void set(T value) {
+        checkThread();
+
+        if (Objects.equals(this.value, value)) {
+            return;
+        }
+        this.value = value;
+        batch(this::notifyDependents);
+    }
+
+    @Override
+    public String toString() {
+        return "State(value=" + value + ")";
+    }
+}
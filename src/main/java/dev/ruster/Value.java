@@ -0,0 +1,90 @@
+package dev.ruster;
+
+import org.bukkit.Bukkit;
+
+import java.util.*;
+
+/**
+ * <p>A read-only value that GUI slots and computed values can depend on</p>
+ * <p>Reading it with {@link #get()} from a slot binding or a {@link Computed} expression registers it as a dependency,
+ * there is nothing to subscribe by hand</p>
+ * <p>Reactive values are not thread-safe, they must only be used from the server main thread</p>
+ *
+ * @param <T> The type of the value
+ * @author RusterX16
+ * @see State
+ * @see Computed
+ */
+public abstract class Value<T> {
+
+    /**
+     * The stack of dependents currently being evaluated
+     */
+    static final Deque<Dependent> TRACKING = new ArrayDeque<>();
+
+    /**
+     * The dependents to invalidate when the value changes
+     */
+    final Set<Dependent> dependents = new LinkedHashSet<>();
+
+    /**
+     * Only {@link State} and {@link Computed} are reactive values
+     */
+    Value() {
+    }
+
+    /**
+     * Make sure reactive values are used from the server main thread.<br>
+     * Nothing is checked when no server is running
+     *
+     * @throws IllegalStateException If called from another thread
+     */
+    static void checkThread() {
+        if (Bukkit.getServer() != null && !Bukkit.isPrimaryThread()) {
+            throw new IllegalStateException("Reactive values must be changed from the server main thread, use the scheduler to get back to it");
+        }
+    }
+
+    /**
+     * Get the current value and register it as a dependency of the binding being evaluated, if any
+     *
+     * @return The current value
+     */
+    public T get() {
+        final Dependent current = TRACKING.peek();
+
+        if (current != null) {
+            current.depend(this);
+        }
+        return current();
+    }
+
+    /**
+     * @return The current value, without registering any dependency
+     */
+    abstract T current();
+
+    /**
+     * Invalidate every dependent. Each one stops listening to its dependencies until it is evaluated again.<br>
+     * If some dependents fail, the others are still invalidated and the first failure is thrown at the end
+     */
+    void notifyDependents() {
+        RuntimeException failure = null;
+
+        for (Dependent dependent : new ArrayList<>(dependents)) {
+            try {
+                dependent.dispose();
+                dependent.invalidate();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
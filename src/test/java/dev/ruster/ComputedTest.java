@@ -0,0 +1,71 @@
+package dev.ruster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComputedTest {
+
+    @Test
+    void expressionRunsOnlyWhenRead() {
+        final State<Integer> state = new State<>(1);
+        final AtomicInteger runs = new AtomicInteger();
+        final Computed<Integer> computed = new Computed<>(() -> {
+            runs.incrementAndGet();
+            return state.get() + 1;
+        });
+
+        assertEquals(0, runs.get());
+        state.set(2);
+        state.set(3);
+        assertEquals(0, runs.get());
+        assertEquals(4, computed.get());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void batchedChangesComputeOnce() {
+        final State<Integer> state = new State<>(0);
+        final AtomicInteger runs = new AtomicInteger();
+        final Computed<Integer> computed = new Computed<>(() -> {
+            runs.incrementAndGet();
+            return state.get();
+        });
+
+        computed.get();
+        State.batch(() -> {
+            state.set(1);
+            state.set(2);
+            state.set(3);
+        });
+
+        assertEquals(3, computed.get());
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void diamondSeesConsistentInputs() {
+        final State<Integer> source = new State<>(1);
+        final Computed<Integer> doubled = new Computed<>(() -> source.get() * 2);
+        final Computed<Integer> tripled = new Computed<>(() -> source.get() * 3);
+        final Computed<Boolean> consistent = new Computed<>(() -> doubled.get() * 3 == tripled.get() * 2);
+
+        assertTrue(consistent.get());
+        source.set(5);
+        assertTrue(consistent.get());
+        assertEquals(10, doubled.get());
+        assertEquals(15, tripled.get());
+    }
+
+    @Test
+    void failingExpressionIsRetried() {
+        final State<Integer> state = new State<>(0);
+        final Computed<Integer> computed = new Computed<>(() -> 10 / state.get());
+
+        assertThrows(ArithmeticException.class, computed::get);
+        state.set(2);
+        assertEquals(5, computed.get());
+    }
+}
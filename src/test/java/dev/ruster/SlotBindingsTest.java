@@ -0,0 +1,238 @@
+package dev.ruster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotBindingsTest {
+
+    /**
+     * The slots written by the bindings
+     */
+    private final Map<Integer, String> slots = new HashMap<>();
+    /**
+     * The number of items written
+     */
+    private final AtomicInteger writes = new AtomicInteger();
+    /**
+     * Whether the slots are displayed to someone
+     */
+    private boolean visible = true;
+
+    private SlotBindings<String> bindings() {
+        return new SlotBindings<>((slot, item) -> {
+            writes.incrementAndGet();
+            slots.put(slot, item);
+        }, () -> visible);
+    }
+
+    @Test
+    void onlyDependentSlotsAreRecomputed() {
+        final SlotBindings<String> bindings = bindings();
+        final State<Integer> balance = new State<>(0);
+        final State<Integer> online = new State<>(0);
+        final AtomicInteger onlineRuns = new AtomicInteger();
+
+        bindings.bind(() -> "balance " + balance.get(), 0);
+        bindings.bind(() -> {
+            onlineRuns.incrementAndGet();
+            return "online " + online.get();
+        }, 1);
+        balance.set(5);
+
+        assertEquals("balance 5", slots.get(0));
+        assertEquals("online 0", slots.get(1));
+        assertEquals(1, onlineRuns.get());
+    }
+
+    @Test
+    void outermostBatchFlushesOnce() {
+        final SlotBindings<String> bindings = bindings();
+        final State<Integer> balance = new State<>(0);
+        final AtomicInteger runs = new AtomicInteger();
+
+        bindings.bind(() -> {
+            runs.incrementAndGet();
+            return "balance " + balance.get();
+        }, 0, 1);
+        writes.set(0);
+
+        State.batch(() -> {
+            balance.set(1);
+            State.batch(() -> balance.set(2));
+            assertEquals("balance 0", slots.get(0));
+            balance.set(3);
+        });
+
+        assertEquals("balance 3", slots.get(0));
+        assertEquals("balance 3", slots.get(1));
+        assertEquals(2, runs.get());
+        assertEquals(2, writes.get());
+    }
+
+    @Test
+    void unboundSlotsAreKeptButNoLongerUpdated() {
+        final SlotBindings<String> bindings = bindings();
+        final State<Integer> balance = new State<>(0);
+
+        bindings.bind(() -> "balance " + balance.get(), 0, 1);
+        bindings.unbind(0);
+        balance.set(1);
+
+        assertFalse(bindings.isBound(0));
+        assertTrue(bindings.isBound(1));
+        assertEquals("balance 0", slots.get(0));
+        assertEquals("balance 1", slots.get(1));
+
+        bindings.unbindAll();
+        balance.set(2);
+
+        assertFalse(bindings.isBound(1));
+        assertEquals("balance 1", slots.get(1));
+        assertTrue(balance.dependents.isEmpty());
+    }
+
+    @Test
+    void bindingWithoutSlotIsRejected() {
+        final SlotBindings<String> bindings = bindings();
+
+        assertThrows(IllegalArgumentException.class, () -> bindings.bind(() -> "item"));
+    }
+
+    @Test
+    void hiddenSlotsAreUpdatedOnRefresh() {
+        final SlotBindings<String> bindings = bindings();
+        final State<Integer> balance = new State<>(0);
+        final AtomicInteger runs = new AtomicInteger();
+
+        bindings.bind(() -> {
+            runs.incrementAndGet();
+            return "balance " + balance.get();
+        }, 0);
+        visible = false;
+        balance.set(1);
+        balance.set(2);
+
+        assertEquals("balance 0", slots.get(0));
+        assertTrue(balance.dependents.isEmpty());
+
+        bindings.flush(true);
+
+        assertEquals("balance 2", slots.get(0));
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void failingBindingDoesNotStopOtherBindings() {
+        final State<Integer> x = new State<>(0);
+        final SlotBindings<String> failing = bindings();
+        final List<Map<Integer, String>> others = new ArrayList<>();
+
+        failing.bind(() -> {
+            if (x.get() == 1) {
+                throw new IllegalStateException("failing");
+            }
+            return "failing " + x.get();
+        }, 0);
+        failing.bind(() -> "x " + x.get(), 1);
+
+        for (int i = 0; i < 20; i++) {
+            final Map<Integer, String> other = new HashMap<>();
+            new SlotBindings<String>(other::put, () -> true).bind(() -> "x " + x.get(), 0);
+            others.add(other);
+        }
+        x.set(1);
+
+        assertEquals("failing 0", slots.get(0));
+        assertEquals("x 1", slots.get(1));
+        others.forEach(other -> assertEquals("x 1", other.get(0)));
+
+        x.set(2);
+
+        assertEquals("failing 2", slots.get(0));
+        assertEquals("x 2", slots.get(1));
+        others.forEach(other -> assertEquals("x 2", other.get(0)));
+    }
+
+    @Test
+    void bindingReadingFailingComputedIsRetried() {
+        final SlotBindings<String> bindings = bindings();
+        final State<Integer> state = new State<>(0);
+        final Computed<Integer> computed = new Computed<>(() -> 10 / state.get());
+
+        bindings.bind(() -> "v" + computed.get(), 0);
+        assertNull(slots.get(0));
+
+        state.set(2);
+        assertEquals("v5", slots.get(0));
+
+        state.set(5);
+        assertEquals("v2", slots.get(0));
+    }
+
+    @Test
+    void bindingChangingWhatItReadsStops() {
+        final SlotBindings<String> bindings = bindings();
+        final State<Integer> state = new State<>(0);
+        final AtomicInteger runs = new AtomicInteger();
+
+        bindings.bind(() -> {
+            runs.incrementAndGet();
+            final int value = state.get();
+            state.set(value + 1);
+            return "v" + value;
+        }, 0);
+
+        assertTrue(runs.get() <= 100);
+    }
+
+    @Test
+    void bindingUnboundDuringFlushIsSkipped() {
+        final SlotBindings<String> bindings = bindings();
+        final State<Integer> state = new State<>(0);
+        final AtomicInteger runs = new AtomicInteger();
+
+        bindings.bind(() -> {
+            if (state.get() == 1) {
+                bindings.unbind(1);
+            }
+            return "first " + state.get();
+        }, 0);
+        bindings.bind(() -> {
+            runs.incrementAndGet();
+            return "second " + state.get();
+        }, 1);
+        state.set(1);
+
+        assertEquals("first 1", slots.get(0));
+        assertEquals("second 0", slots.get(1));
+        assertEquals(1, runs.get());
+        assertEquals(1, state.dependents.size());
+    }
+
+    @Test
+    void invalidatedSlotsAreRedrawn() {
+        final SlotBindings<String> bindings = bindings();
+        final State<Integer> state = new State<>(0);
+
+        bindings.bind(() -> "v" + state.get(), 0, 1);
+        bindings.bind(() -> "w" + state.get(), 2);
+        slots.clear();
+        bindings.invalidate(0, 5);
+
+        assertEquals("v0", slots.get(0));
+        assertEquals("v0", slots.get(1));
+        assertNull(slots.get(2));
+
+        slots.clear();
+        bindings.invalidateAll();
+
+        assertEquals("w0", slots.get(2));
+    }
+}
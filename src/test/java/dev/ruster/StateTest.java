@@ -0,0 +1,95 @@
+package dev.ruster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StateTest {
+
+    @Test
+    void getReturnsLastValueSet() {
+        final State<Integer> state = new State<>(1);
+        state.set(2);
+
+        assertEquals(2, state.get());
+    }
+
+    @Test
+    void equalValueDoesNotInvalidateDependents() {
+        final State<String> state = new State<>("a");
+        final AtomicInteger runs = new AtomicInteger();
+        final Computed<String> computed = new Computed<>(() -> {
+            runs.incrementAndGet();
+            return state.get();
+        });
+
+        computed.get();
+        state.set("a");
+        computed.get();
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void conditionalReadsAreTrackedAgain() {
+        final State<Boolean> useLeft = new State<>(true);
+        final State<Integer> left = new State<>(1);
+        final State<Integer> right = new State<>(2);
+        final AtomicInteger runs = new AtomicInteger();
+        final Computed<Integer> computed = new Computed<>(() -> {
+            runs.incrementAndGet();
+            return useLeft.get() ? left.get() : right.get();
+        });
+
+        assertEquals(1, computed.get());
+        right.set(3);
+        assertEquals(1, computed.get());
+        assertEquals(1, runs.get());
+
+        useLeft.set(false);
+        assertEquals(3, computed.get());
+        left.set(4);
+        assertEquals(3, computed.get());
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void failingDependentDoesNotPreventOthersFromBeingInvalidated() {
+        final State<Integer> state = new State<>(1);
+        final Computed<Integer> bad = new Computed<>(() -> {
+            if (state.get() == 2) {
+                throw new IllegalStateException("bad");
+            }
+            return state.get();
+        });
+        final Computed<Integer> good = new Computed<>(() -> state.get() * 10);
+
+        assertEquals(1, bad.get());
+        assertEquals(10, good.get());
+        state.set(2);
+
+        assertThrows(IllegalStateException.class, bad::get);
+        assertEquals(20, good.get());
+    }
+
+    @Test
+    void throwingDependentDoesNotPreventOthersFromBeingInvalidated() {
+        final State<Integer> state = new State<>(1);
+        final Dependent throwing = new Dependent() {
+            @Override
+            void invalidate() {
+                throw new IllegalStateException("throwing");
+            }
+        };
+        final Computed<Integer> good = new Computed<>(() -> state.get() * 10);
+
+        throwing.track(state::get);
+        assertEquals(10, good.get());
+
+        assertThrows(IllegalStateException.class, () -> state.set(2));
+        assertEquals(2, state.get());
+        assertEquals(20, good.get());
+    }
+}